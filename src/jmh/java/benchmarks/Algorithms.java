@@ -0,0 +1,59 @@
+package benchmarks;
+
+import java.io.File;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+
+/**
+ * Handles to the algorithms being benchmarked.
+ * JMH won't generate benchmarks in the default package and the algorithms can't be imported from it,
+ * so they are looked up by name instead. The handles are static final, so the JIT inlines them
+ * like a direct call and invokeExact doesn't add to the measurements.
+ */
+final class Algorithms {
+
+    static final MethodHandle HUFFMAN_ENCODE = find("HuffmanCoding", "encode",
+            MethodType.methodType(void.class, File.class, File.class));
+    static final MethodHandle HUFFMAN_DECODE = find("HuffmanCoding", "decode",
+            MethodType.methodType(void.class, File.class, File.class));
+
+    static final MethodHandle TSP_SOLVE = find("TravelingSalesman", "solve",
+            MethodType.methodType(int[].class, double[][].class));
+    static final MethodHandle TSP_APPROXIMATE = find("TravelingSalesman", "approximate",
+            MethodType.methodType(int[].class, double[][].class));
+    static final MethodHandle TSP_MINIMUM_SPANNING_TREE = find("TravelingSalesman", "minimumSpanningTree",
+            MethodType.methodType(int[][].class, double[][].class, int.class));
+    static final MethodHandle TSP_GENERATE_COMPLETE_GRAPH = find("TravelingSalesman", "generateCompleteGraph",
+            MethodType.methodType(double[][].class, int.class, double.class, double.class));
+
+    static final MethodHandle EXTEND_SHORTEST_PATHS = find("AllShortestPaths", "ExtendShortestPaths",
+            MethodType.methodType(int[][].class, int[][].class, int[][].class));
+    static final MethodHandle FLOYD_WARSHALL = find("AllShortestPaths", "FloydWarshall",
+            MethodType.methodType(int[][][].class, int[][].class));
+
+    static final MethodHandle BINOMIAL_COEFFICIENT = find("DynamicProgramming", "binomialCoefficient",
+            MethodType.methodType(int.class, int.class, int.class));
+    static final MethodHandle BINOMIAL_COEFFICIENT_INEFFICIENT = find("DynamicProgramming",
+            "binomialCoefficientInefficient", MethodType.methodType(int.class, int.class, int.class));
+    static final MethodHandle ACKERMANN = find("DynamicProgramming", "ackermann",
+            MethodType.methodType(int.class, int.class, int.class));
+
+    private Algorithms() {
+    }
+
+    /**
+     * Finds a public static method
+     * @param className the name of a class in the default package
+     * @param name the name of the method
+     * @param type the signature of the method
+     * @return a handle to the method
+     */
+    private static MethodHandle find(String className, String name, MethodType type) {
+        try {
+            return MethodHandles.publicLookup().findStatic(Class.forName(className), name, type);
+        } catch (ReflectiveOperationException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+}
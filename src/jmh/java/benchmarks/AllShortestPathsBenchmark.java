@@ -0,0 +1,60 @@
+package benchmarks;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures one extension step of the matrix multiplication method against a full Floyd-Warshall run.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class AllShortestPathsBenchmark {
+
+    @Param({"16", "64", "256"})
+    public int n;
+
+    int[][] weights;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        weights = generateWeights(n, new Random(42));
+    }
+
+    @Benchmark
+    public int[][] extendShortestPaths() throws Throwable {
+        return (int[][]) Algorithms.EXTEND_SHORTEST_PATHS.invokeExact(weights, weights);
+    }
+
+    @Benchmark
+    public int[][][] floydWarshall() throws Throwable {
+        return (int[][][]) Algorithms.FLOYD_WARSHALL.invokeExact(weights);
+    }
+
+    /**
+     * Generates a random directed graph where about half of the edges are missing
+     * @param n the number of vertices
+     * @param random the source of randomness
+     * @return an adjacency matrix using Integer.MAX_VALUE to mean infinity
+     */
+    static int[][] generateWeights(int n, Random random) {
+        int[][] weights = new int[n][n];
+        for (int i = 0; i < n; i++) {
+            for (int j = 0; j < n; j++) {
+                if (i == j) {
+                    weights[i][j] = 0;
+                } else if (random.nextBoolean()) {
+                    weights[i][j] = Integer.MAX_VALUE;
+                } else {
+                    weights[i][j] = 1 + random.nextInt(100);
+                }
+            }
+        }
+        return weights;
+    }
+}
@@ -0,0 +1,47 @@
+package benchmarks;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the memoized recurrences, along with the binomial coefficient without memoization for comparison.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class DynamicProgrammingBenchmark {
+
+    @State(Scope.Benchmark)
+    public static class Binomial {
+
+        /** computes j choose j / 2, much larger values overflow an int */
+        @Param({"10", "20", "30"})
+        public int j;
+    }
+
+    @State(Scope.Benchmark)
+    public static class Ackermann {
+
+        /** computes ackermann(3, n), the recursion gets too deep much past this */
+        @Param({"2", "4", "6"})
+        public int n;
+    }
+
+    @Benchmark
+    public int binomialCoefficient(Binomial state) throws Throwable {
+        return (int) Algorithms.BINOMIAL_COEFFICIENT.invokeExact(state.j, state.j / 2);
+    }
+
+    @Benchmark
+    public int binomialCoefficientInefficient(Binomial state) throws Throwable {
+        return (int) Algorithms.BINOMIAL_COEFFICIENT_INEFFICIENT.invokeExact(state.j, state.j / 2);
+    }
+
+    @Benchmark
+    public int ackermann(Ackermann state) throws Throwable {
+        return (int) Algorithms.ACKERMANN.invokeExact(3, state.n);
+    }
+}
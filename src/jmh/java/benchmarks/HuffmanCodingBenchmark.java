@@ -0,0 +1,112 @@
+package benchmarks;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.OutputStream;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the throughput of HuffmanCoding.encode and HuffmanCoding.decode on a few corpora.
+ * The megabytes counter is reported per second, so it reads as MB/s of uncompressed data.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class HuffmanCodingBenchmark {
+
+    /** the kind of data to compress, each one stresses a different tree shape */
+    @Param({"text", "random", "skewed"})
+    public String corpus;
+
+    /** size of the uncompressed file in bytes */
+    @Param({"65536", "1048576"})
+    public int size;
+
+    File original;
+    File encoded;
+    File output;
+
+    /** Counts the megabytes of uncompressed data handled by each invocation */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.OPERATIONS)
+    public static class Bytes {
+
+        public double megabytes;
+    }
+
+    @Setup(Level.Trial)
+    public void setup() throws Throwable {
+        original = File.createTempFile("huffman", ".original");
+        encoded = File.createTempFile("huffman", ".encoded");
+        output = File.createTempFile("huffman", ".output");
+        try (OutputStream stream = new FileOutputStream(original)) {
+            stream.write(generateCorpus(corpus, size, new Random(42)));
+        }
+        Algorithms.HUFFMAN_ENCODE.invokeExact(original, encoded);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        original.delete();
+        encoded.delete();
+        output.delete();
+    }
+
+    @Benchmark
+    public long encode(Bytes bytes) throws Throwable {
+        Algorithms.HUFFMAN_ENCODE.invokeExact(original, output);
+        bytes.megabytes += size / 1e6;
+        return output.length();
+    }
+
+    @Benchmark
+    public long decode(Bytes bytes) throws Throwable {
+        Algorithms.HUFFMAN_DECODE.invokeExact(encoded, output);
+        bytes.megabytes += size / 1e6;
+        return output.length();
+    }
+
+    /**
+     * Generates data to compress
+     * @param corpus "text" for lowercase words, "random" for uniformly random bytes,
+     *               or "skewed" for bytes with a geometric distribution
+     * @param size the number of bytes to generate
+     * @param random the source of randomness
+     * @return the generated data
+     */
+    static byte[] generateCorpus(String corpus, int size, Random random) {
+        byte[] data = new byte[size];
+        switch (corpus) {
+            case "text":
+                String letters = "etaoinshrdlcumwfgypbvkjxqz";
+                for (int i = 0; i < size; i++) {
+                    // short words with the more common letters picked more often
+                    data[i] = random.nextInt(6) == 0 ? (byte) ' '
+                            : (byte) letters.charAt(Math.min(letters.length() - 1,
+                            (int) Math.abs(random.nextGaussian() * 6)));
+                }
+                break;
+            case "random":
+                random.nextBytes(data);
+                break;
+            case "skewed":
+                for (int i = 0; i < size; i++) {
+                    int b = 0;
+                    while (b < 255 && random.nextBoolean()) {
+                        b++;
+                    }
+                    data[i] = (byte) b;
+                }
+                break;
+            default:
+                throw new IllegalArgumentException("Unknown corpus " + corpus);
+        }
+        return data;
+    }
+}
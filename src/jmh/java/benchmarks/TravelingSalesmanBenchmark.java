@@ -0,0 +1,60 @@
+package benchmarks;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the exact and approximate traveling salesman solutions across graph sizes.
+ * The exact solution visits every permutation, so it gets its own much smaller sizes.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TravelingSalesmanBenchmark {
+
+    @State(Scope.Benchmark)
+    public static class ExactGraph {
+
+        @Param({"6", "8", "10"})
+        public int n;
+
+        double[][] graph;
+
+        @Setup(Level.Trial)
+        public void setup() throws Throwable {
+            graph = (double[][]) Algorithms.TSP_GENERATE_COMPLETE_GRAPH.invokeExact(n, 5d, 5d);
+        }
+    }
+
+    @State(Scope.Benchmark)
+    public static class LargeGraph {
+
+        @Param({"16", "64", "256", "1024"})
+        public int n;
+
+        double[][] graph;
+
+        @Setup(Level.Trial)
+        public void setup() throws Throwable {
+            graph = (double[][]) Algorithms.TSP_GENERATE_COMPLETE_GRAPH.invokeExact(n, 5d, 5d);
+        }
+    }
+
+    @Benchmark
+    public int[] solve(ExactGraph state) throws Throwable {
+        return (int[]) Algorithms.TSP_SOLVE.invokeExact(state.graph);
+    }
+
+    @Benchmark
+    public int[] approximate(LargeGraph state) throws Throwable {
+        return (int[]) Algorithms.TSP_APPROXIMATE.invokeExact(state.graph);
+    }
+
+    @Benchmark
+    public int[][] minimumSpanningTree(LargeGraph state) throws Throwable {
+        return (int[][]) Algorithms.TSP_MINIMUM_SPANNING_TREE.invokeExact(state.graph, 0);
+    }
+}
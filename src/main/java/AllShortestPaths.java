@@ -1,9 +1,16 @@
 public class AllShortestPaths {
 
+    private static final Metrics.Timer EXTEND_SHORTEST_PATHS = Metrics.timer("AllShortestPaths.ExtendShortestPaths");
+    private static final Metrics.Timer FLOYD_WARSHALL = Metrics.timer("AllShortestPaths.FloydWarshall");
+    // the size of the int arrays, ignoring object headers
+    private static final Metrics.Counter ALLOCATED_BYTES = Metrics.counter("AllShortestPaths.allocatedBytes");
+
     // uses Integer.MAX_VALUE to mean infinity
     public static int[][] ExtendShortestPaths(int[][] L, int[][] W) {
+        long start = EXTEND_SHORTEST_PATHS.start();
         int n = L.length;
         int[][] LL = new int[n][n];
+        ALLOCATED_BYTES.add(4L * n * n);
         for (int i = 0; i < n - 1; i++) {
             for (int j = 0; j < n - 1; j++) {
                 LL[i][j] = Integer.MAX_VALUE;
@@ -18,12 +25,15 @@ public class AllShortestPaths {
                 }
             }
         }
+        EXTEND_SHORTEST_PATHS.stop(start);
         return LL;
     }
 
     public static int[][][] FloydWarshall(int[][] W) {
+        long start = FLOYD_WARSHALL.start();
         int n = W.length;
         int[][][] D = new int[n + 1][n][n];
+        ALLOCATED_BYTES.add(4L * (n + 1) * n * n);
         D[0] = W;
         for (int k = 0; k < n; k++) {
             for (int i = 0; i < n; i++) {
@@ -38,6 +48,7 @@ public class AllShortestPaths {
                 }
             }
         }
+        FLOYD_WARSHALL.stop(start);
         return D;
     }
 }
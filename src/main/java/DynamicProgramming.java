@@ -5,9 +5,15 @@ import java.util.Map;
 
 public class DynamicProgramming {
 
+    private static final Metrics.Timer BINOMIAL_COEFFICIENT = Metrics.timer("DynamicProgramming.binomialCoefficient");
+    private static final Metrics.Timer ACKERMANN = Metrics.timer("DynamicProgramming.ackermann");
+    private static final Metrics.Counter ACKERMANN_MEMOIZED = Metrics.counter("DynamicProgramming.ackermann.memoized");
+
     public static int binomialCoefficient(int j, int k) {
+        long start = BINOMIAL_COEFFICIENT.start();
         int[][] lookup = new int[j + 1][k + 1];
         binomialCoefficient(j, k, lookup);
+        BINOMIAL_COEFFICIENT.stop(start);
         return lookup[j][k];
     }
 
@@ -36,8 +42,11 @@ public class DynamicProgramming {
 
     // problem with stack overflows
     public static int ackermann(int m, int n) {
+        long start = ACKERMANN.start();
         Map<Pair<Integer, Integer>, Integer> lookup = new HashMap<>();
         ackermann(m, n, lookup);
+        ACKERMANN_MEMOIZED.add(lookup.size());
+        ACKERMANN.stop(start);
         return lookup.get(p(m, n));
     }
 
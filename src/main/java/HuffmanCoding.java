@@ -15,6 +15,15 @@ import java.util.PriorityQueue;
  */
 public class HuffmanCoding {
 
+    private static final Metrics.Timer ENCODE_HISTOGRAM = Metrics.timer("HuffmanCoding.encode.histogram");
+    private static final Metrics.Timer ENCODE_TREE = Metrics.timer("HuffmanCoding.encode.tree");
+    private static final Metrics.Timer ENCODE_HEADER = Metrics.timer("HuffmanCoding.encode.header");
+    private static final Metrics.Timer ENCODE_BODY = Metrics.timer("HuffmanCoding.encode.body");
+    private static final Metrics.Counter ENCODE_BYTES = Metrics.counter("HuffmanCoding.encode.bytes");
+    private static final Metrics.Timer DECODE_HEADER = Metrics.timer("HuffmanCoding.decode.header");
+    private static final Metrics.Timer DECODE_BODY = Metrics.timer("HuffmanCoding.decode.body");
+    private static final Metrics.Counter DECODE_BYTES = Metrics.counter("HuffmanCoding.decode.bytes");
+
     /** A simple class to store node info */
     public static class HuffmanTreeNode {
 
@@ -186,6 +195,9 @@ public class HuffmanCoding {
                 } else {
                     decode(input, output);
                 }
+                if (Metrics.ENABLED) {
+                    System.out.println(Metrics.toJson());
+                }
             } catch (IOException ioException) {
                 ioException.printStackTrace();
             }
@@ -200,10 +212,12 @@ public class HuffmanCoding {
      */
     public static void encode(File inputFile, File outputFile) throws IOException {
         // read file
+        long start = ENCODE_HISTOGRAM.start();
         InputStream input = new FileInputStream(inputFile);
         // find frequencies
         HuffmanTreeNode[] frequencies = new HuffmanTreeNode[256];
         int next;
+        long size = 0;
         while ((next = input.read()) != -1) {
             if (frequencies[next] == null) {
                 // create a new frequency node
@@ -211,13 +225,19 @@ public class HuffmanCoding {
                 frequencies[next] = node;
             }
             frequencies[next].frequency++;
+            size++;
         }
+        ENCODE_BYTES.add(size);
+        ENCODE_HISTOGRAM.stop(start);
         // create tree
+        start = ENCODE_TREE.start();
         HuffmanTreeNode tree = createHuffmanTreeFromFrequencies(frequencies);
         // calculate huffman codes
         String[] codes = new String[256];
         findCodes(tree, codes, "");
+        ENCODE_TREE.stop(start);
         // wrap output stream in a BitWriter
+        start = ENCODE_HEADER.start();
         OutputStream output = new FileOutputStream(outputFile);
         BitWriter bits = new BitWriter(output);
         // beginning of file can't be calculated until later
@@ -236,7 +256,9 @@ public class HuffmanCoding {
             }
             codeCount++;
         }
+        ENCODE_HEADER.stop(start);
         // write the encoded data
+        start = ENCODE_BODY.start();
         input.close();
         input = new FileInputStream(inputFile);
         while ((next = input.read()) != -1) {
@@ -252,6 +274,7 @@ public class HuffmanCoding {
         file.seek(1); // second byte
         file.writeByte(codeCount - 1);
         file.close();
+        ENCODE_BODY.stop(start);
     }
 
     /**
@@ -262,6 +285,7 @@ public class HuffmanCoding {
      */
     public static void decode(File inputFile, File outputFile) throws IOException {
         // wrap an input stream in a BitReader
+        long start = DECODE_HEADER.start();
         InputStream input = new FileInputStream(inputFile);
         BitReader bits = new BitReader(input);
         // fetch first two bytes
@@ -269,9 +293,12 @@ public class HuffmanCoding {
         int codeCount = bits.nextByte() + 1;
         // recreate tree
         HuffmanTreeNode tree = createHuffmanTreeFromFile(bits, codeCount);
+        DECODE_HEADER.stop(start);
         // decode file
+        start = DECODE_BODY.start();
         OutputStream output = new FileOutputStream(outputFile);
         int lastBits = 0;
+        long size = 0;
         HuffmanTreeNode cursor;
         while (!(bits.isLastByte() && lastBits == usedBits)) {
             cursor = tree;
@@ -286,9 +313,12 @@ public class HuffmanCoding {
                 }
             }
             output.write(cursor.character);
+            size++;
         }
         bits.close();
         output.close();
+        DECODE_BYTES.add(size);
+        DECODE_BODY.stop(start);
     }
 
     /**
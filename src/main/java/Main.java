@@ -10,6 +10,9 @@ public class Main {
             totalRatio += TravelingSalesman.length(graph, path) / TravelingSalesman.length(graph, optimal);
         }
         System.out.println("Average ratio approximation/optimal: " + totalRatio / number);
+        if (Metrics.ENABLED) {
+            System.out.println(Metrics.toJson());
+        }
     }
 
     public static void printMatrix(int[][] m) {
@@ -27,6 +30,6 @@ public class Main {
         long start = System.nanoTime();
         function.run();
         long end = System.nanoTime();
-        return (end - start) * Math.pow(10, 6);
+        return (end - start) / 1e6;
     }
 }
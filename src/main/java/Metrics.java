@@ -0,0 +1,201 @@
+import javax.management.JMException;
+import javax.management.ObjectName;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.io.Writer;
+import java.lang.management.ManagementFactory;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Counters and timers for seeing where time goes inside the algorithms.
+ * Metrics are off unless the program is run with -Dmetrics.enabled=true. Since ENABLED is a constant,
+ * the JIT removes the recording code entirely when they are off.
+ * When they are on, the metrics are registered with JMX as WaxmanAlgorithms:type=Metrics,
+ * and they are written as JSON to the file given by -Dmetrics.output when the program exits.
+ */
+public class Metrics {
+
+    /** whether metrics are being recorded */
+    public static final boolean ENABLED = Boolean.getBoolean("metrics.enabled");
+
+    private static final Map<String, Counter> counters = new ConcurrentHashMap<>();
+    private static final Map<String, Timer> timers = new ConcurrentHashMap<>();
+
+    static {
+        if (ENABLED) {
+            try {
+                ManagementFactory.getPlatformMBeanServer().registerMBean(
+                        new Bean(), new ObjectName("WaxmanAlgorithms:type=Metrics"));
+            } catch (JMException e) {
+                e.printStackTrace();
+            }
+            String output = System.getProperty("metrics.output");
+            if (output != null) {
+                Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+                    try (Writer writer = new FileWriter(output)) {
+                        writer.write(toJson());
+                    } catch (IOException ioException) {
+                        ioException.printStackTrace();
+                    }
+                }));
+            }
+        }
+    }
+
+    /** A count that can be added to from many threads without contention */
+    public static class Counter {
+
+        final LongAdder value = new LongAdder();
+
+        /**
+         * Adds to the count
+         * @param n the amount to add
+         */
+        public void add(long n) {
+            if (ENABLED) {
+                value.add(n);
+            }
+        }
+
+        /** Adds one to the count */
+        public void increment() {
+            add(1);
+        }
+
+        /**
+         * @return the current count
+         */
+        public long get() {
+            return value.sum();
+        }
+    }
+
+    /** Records how many times a section of code ran, along with its total and longest durations */
+    public static class Timer {
+
+        final LongAdder count = new LongAdder();
+        final LongAdder totalNanos = new LongAdder();
+        final LongAccumulator maxNanos = new LongAccumulator(Math::max, 0);
+
+        /**
+         * Starts timing a section of code
+         * @return the start time, which should be passed to stop
+         */
+        public long start() {
+            return ENABLED ? System.nanoTime() : 0;
+        }
+
+        /**
+         * Finishes timing a section of code
+         * @param start the value returned by start
+         */
+        public void stop(long start) {
+            if (ENABLED) {
+                long elapsed = System.nanoTime() - start;
+                count.increment();
+                totalNanos.add(elapsed);
+                maxNanos.accumulate(elapsed);
+            }
+        }
+    }
+
+    /** The interface used to expose the metrics through JMX */
+    public interface MetricsMXBean {
+
+        /**
+         * @return every counter, and the count, totalNanos and maxNanos of every timer
+         */
+        Map<String, Long> getValues();
+
+        /**
+         * @return the metrics as JSON
+         */
+        String getJson();
+
+        /** Sets every metric back to zero */
+        void reset();
+    }
+
+    private static class Bean implements MetricsMXBean {
+
+        @Override
+        public Map<String, Long> getValues() {
+            Map<String, Long> values = new TreeMap<>();
+            counters.forEach((name, counter) -> values.put(name, counter.get()));
+            timers.forEach((name, timer) -> {
+                values.put(name + ".count", timer.count.sum());
+                values.put(name + ".totalNanos", timer.totalNanos.sum());
+                values.put(name + ".maxNanos", timer.maxNanos.get());
+            });
+            return values;
+        }
+
+        @Override
+        public String getJson() {
+            return toJson();
+        }
+
+        @Override
+        public void reset() {
+            resetAll();
+        }
+    }
+
+    /**
+     * Finds or creates a counter
+     * @param name the name of the counter, usually the class and method it belongs to
+     * @return the counter with that name
+     */
+    public static Counter counter(String name) {
+        return counters.computeIfAbsent(name, n -> new Counter());
+    }
+
+    /**
+     * Finds or creates a timer
+     * @param name the name of the timer, usually the class and method it belongs to
+     * @return the timer with that name
+     */
+    public static Timer timer(String name) {
+        return timers.computeIfAbsent(name, n -> new Timer());
+    }
+
+    /** Sets every metric back to zero */
+    public static void resetAll() {
+        counters.values().forEach(counter -> counter.value.reset());
+        timers.values().forEach(timer -> {
+            timer.count.reset();
+            timer.totalNanos.reset();
+            timer.maxNanos.reset();
+        });
+    }
+
+    /**
+     * @return the current value of every metric as a JSON object, sorted by name
+     */
+    public static String toJson() {
+        StringBuilder json = new StringBuilder("{\n  \"counters\": {");
+        String separator = "";
+        for (Map.Entry<String, Counter> entry : new TreeMap<>(counters).entrySet()) {
+            json.append(separator).append("\n    \"").append(entry.getKey()).append("\": ")
+                    .append(entry.getValue().get());
+            separator = ",";
+        }
+        json.append("\n  },\n  \"timers\": {");
+        separator = "";
+        for (Map.Entry<String, Timer> entry : new TreeMap<>(timers).entrySet()) {
+            Timer timer = entry.getValue();
+            json.append(separator).append("\n    \"").append(entry.getKey()).append("\": {")
+                    .append("\"count\": ").append(timer.count.sum())
+                    .append(", \"totalNanos\": ").append(timer.totalNanos.sum())
+                    .append(", \"maxNanos\": ").append(timer.maxNanos.get())
+                    .append('}');
+            separator = ",";
+        }
+        json.append("\n  }\n}");
+        return json.toString();
+    }
+}
@@ -4,18 +4,26 @@ import java.util.concurrent.ThreadLocalRandom;
 
 public class TravelingSalesman {
 
+    private static final Metrics.Timer SOLVE = Metrics.timer("TravelingSalesman.solve");
+    private static final Metrics.Counter PERMUTATIONS = Metrics.counter("TravelingSalesman.permutations");
+    private static final Metrics.Counter IMPROVEMENTS = Metrics.counter("TravelingSalesman.improvements");
+    private static final Metrics.Timer APPROXIMATE = Metrics.timer("TravelingSalesman.approximate");
+    private static final Metrics.Timer MINIMUM_SPANNING_TREE = Metrics.timer("TravelingSalesman.minimumSpanningTree");
+
     /**
      * solves the traveling salesman problem
      * @param graph a complete graph
      * @return an optimal hamiltonian path
      */
     public static int[] solve(double[][] graph) {
+        long start = SOLVE.start();
         int[] array = new int[graph.length];
         for (int i = 0; i < array.length; i++) {
             array[i] = i;
         }
         int[] bestPath = array.clone();
         checkPermutations(array, array.length, array.length, graph, bestPath);
+        SOLVE.stop(start);
         return bestPath;
     }
 
@@ -29,8 +37,10 @@ public class TravelingSalesman {
      */
     public static void checkPermutations(int[] arr, int size, int n, double[][] graph, int[] bestPath) {
         if (size == 1) {
+            PERMUTATIONS.increment();
             // copy permutation over if it's better
             if (length(graph, arr) < length(graph, bestPath)) {
+                IMPROVEMENTS.increment();
                 for (int i = 0; i < arr.length; i++) {
                     bestPath[i] = arr[i];
                 }
@@ -56,10 +66,12 @@ public class TravelingSalesman {
      * @return a list of the indexes of the vertices of an optimal hamiltonian cycle
      */
     public static int[] approximate(double[][] graph) {
+        long start = APPROXIMATE.start();
         int root = ThreadLocalRandom.current().nextInt(graph.length);
         int[][] minTree = minimumSpanningTree(graph, root);
         int[] walk = new int[graph.length];
         preorderTreeWalk(minTree, root, walk, 0);
+        APPROXIMATE.stop(start);
         return walk;
     }
 
@@ -85,6 +97,7 @@ public class TravelingSalesman {
      * @return the adjacency matrix of a minimum spanning tree, starting at the root
      */
     public static int[][] minimumSpanningTree(double[][] graph, int root) {
+        long start = MINIMUM_SPANNING_TREE.start();
         // initialize variables
         int[] predecessors = new int[graph.length];
         double[] key = new double[graph.length];
@@ -114,6 +127,7 @@ public class TravelingSalesman {
                 minTree[predecessors[i]][i] = 1;
             }
         }
+        MINIMUM_SPANNING_TREE.stop(start);
         return minTree;
     }
 